@@ -0,0 +1,23 @@
+package com.example.github.search.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps the Flyway migrations and the JPA bootstrap eager when lazy initialization is enabled,
+     * so a pending or broken migration, or an invalid entity mapping, fails the startup instead of
+     * the first request that touches the database.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter persistenceStartupExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class,
+                EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class);
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS search_results
+(
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    name         VARCHAR(255),
+    description  VARCHAR(1024),
+    owner_name   VARCHAR(255),
+    stars        INTEGER      NOT NULL,
+    language     VARCHAR(255),
+    forks        INTEGER      NOT NULL,
+    last_updated TIMESTAMP(6)
+);
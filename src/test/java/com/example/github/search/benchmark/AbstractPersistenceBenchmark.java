@@ -0,0 +1,157 @@
+package com.example.github.search.benchmark;
+
+import com.example.github.search.dto.GithubSearchResponse;
+import com.example.github.search.dto.RepositoryItem;
+import com.example.github.search.dto.SearchRequestBody;
+import com.example.github.search.service.GithubSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fires many concurrent search requests at {@link GithubSearchService} with a stubbed GitHub API,
+ * so that the measured time is dominated by {@code repository.saveAll} and the connection pool.
+ * Subclasses choose the Spring profile to compare. SQL logging is off in both, so that only the
+ * persistence settings differ.
+ */
+@SpringBootTest
+@AutoConfigureObservability
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+@Tag("persistence-benchmark")
+abstract class AbstractPersistenceBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 20;
+    // GitHub returns 30 repositories per page by default
+    private static final int ITEMS_PER_RESPONSE = 30;
+    // Well above real GitHub repository ids, so benchmark rows never collide with saved results
+    private static final long FIRST_ID = 1_000_000_000_000L;
+
+    @MockitoBean
+    private RestTemplate githubRestTemplate;
+
+    @Autowired
+    private GithubSearchService githubSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong nextId = new AtomicLong(FIRST_ID);
+
+    // Also runs before, so rows left by an aborted run don't turn the measured INSERTs into UPDATEs
+    @BeforeEach
+    @AfterEach
+    void deleteBenchmarkRows() {
+        jdbcTemplate.update("DELETE FROM search_results WHERE id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void saveAllThroughputUnderConcurrentSearches() throws Exception {
+        when(githubRestTemplate.getForObject(anyString(), eq(GithubSearchResponse.class)))
+                .thenAnswer(invocation -> nextResponse());
+
+        // Warm up the pool, the statement caches and the JIT before measuring
+        runSearches(THREADS);
+
+        // HikariCP registers its meters once at pool start, so only the measured run's share is reported
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        assertNotNull(acquire, "HikariCP pool metrics are not registered");
+        long acquireCountBefore = acquire.count();
+        double acquireMillisBefore = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+        int requests = THREADS * REQUESTS_PER_THREAD;
+        long elapsedNanos = runSearches(requests);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long acquireCount = acquire.count() - acquireCountBefore;
+        double acquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillisBefore;
+        System.out.printf("%n[%s] %d concurrent searches, %d items each%n",
+                getClass().getSimpleName(), requests, ITEMS_PER_RESPONSE);
+        System.out.printf("  elapsed:            %.2f s%n", seconds);
+        System.out.printf("  searches/s:         %.1f%n", requests / seconds);
+        System.out.printf("  rows saved/s:       %.1f%n", requests * ITEMS_PER_RESPONSE / seconds);
+        System.out.printf("  pool wait mean:     %.3f ms over %d acquisitions%n",
+                acquireCount == 0 ? 0.0 : acquireMillis / acquireCount, acquireCount);
+        System.out.println("  note: saveAll merges entities with assigned ids, one SELECT per row is not batched");
+    }
+
+    private long runSearches(int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<GithubSearchResponse>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return githubSearchService.searchRepositories(searchRequestBody());
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<GithubSearchResponse> result : results) {
+                assertEquals(ITEMS_PER_RESPONSE, result.get().getItemCount());
+            }
+            return System.nanoTime() - startNanos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private GithubSearchResponse nextResponse() {
+        List<RepositoryItem> items = new ArrayList<>(ITEMS_PER_RESPONSE);
+        for (int i = 0; i < ITEMS_PER_RESPONSE; i++) {
+            long id = nextId.getAndIncrement();
+            RepositoryItem item = new RepositoryItem();
+            item.setId(id);
+            item.setName("benchmark-repo-" + id);
+            item.setDescription("Repository generated by " + getClass().getSimpleName());
+            item.setOwnerName("benchmark");
+            item.setLanguage("java");
+            item.setStars(i);
+            item.setForks(i);
+            items.add(item);
+        }
+
+        GithubSearchResponse response = new GithubSearchResponse();
+        response.setItems(items);
+        response.setItemCount(items.size());
+        return response;
+    }
+
+    private static SearchRequestBody searchRequestBody() {
+        SearchRequestBody body = new SearchRequestBody();
+        body.setQuery("benchmark");
+        body.setLanguage("java");
+        body.setSort("stars");
+        return body;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.github.search.benchmark;
+
+/**
+ * Baseline: HikariCP, the PostgreSQL driver and Hibernate left at their defaults.
+ */
+class DefaultPersistenceBenchmark extends AbstractPersistenceBenchmark {
+}
@@ -0,0 +1,10 @@
+package com.example.github.search.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Same workload with the pool sizing, statement caching and JDBC batching of the 'prod' profile.
+ */
+@ActiveProfiles("prod")
+class ProductionPersistenceBenchmark extends AbstractPersistenceBenchmark {
+}
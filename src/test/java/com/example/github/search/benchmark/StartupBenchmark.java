@@ -0,0 +1,168 @@
+package com.example.github.search.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Launches the packaged application in a fresh JVM and measures the time until the first
+ * {@code /api/github/search} request succeeds: with the former {@code ddl-auto=update} schema handling,
+ * with the Flyway migrations and schema validation, and with the fast-start mode.
+ * The GitHub API is replaced by a local stub so that only the application's own startup is measured.
+ * The jar, the AppCDS archive and the profiles are passed in by the {@code startupBenchmark} Gradle task.
+ */
+@Tag("startup-benchmark")
+class StartupBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    // Well above real GitHub repository ids, so the benchmark row never collides with saved results
+    private static final long REPOSITORY_ID = 2_000_000_000_000L;
+    private static final String SEARCH_RESPONSE = """
+            {"total_count": 1, "items": [{"id": %d, "name": "startup-benchmark", "owner": {"login": "benchmark"},
+            "stargazers_count": 0, "forks_count": 0, "language": "Java", "updated_at": "2025-01-01T00:00:00Z"}]}
+            """.formatted(REPOSITORY_ID);
+
+    private static HttpServer githubStub;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @BeforeAll
+    static void startGithubStub() throws IOException {
+        githubStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        githubStub.createContext("/search/repositories", exchange -> {
+            byte[] body = SEARCH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        githubStub.start();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException, SQLException {
+        githubStub.stop(0);
+
+        Properties properties = new Properties();
+        try (InputStream in = StartupBenchmark.class.getResourceAsStream("/application.properties")) {
+            properties.load(in);
+        }
+        try (Connection connection = DriverManager.getConnection(
+                properties.getProperty("spring.datasource.url"),
+                properties.getProperty("spring.datasource.username"),
+                properties.getProperty("spring.datasource.password"));
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM search_results WHERE id = ?")) {
+            delete.setLong(1, REPOSITORY_ID);
+            delete.executeUpdate();
+        }
+    }
+
+    @Test
+    void timeToFirstSuccessfulSearch() throws Exception {
+        String baselineProfiles = "--spring.profiles.active=" + System.getProperty("benchmark.baseline-profiles");
+        String fastStartProfiles = "--spring.profiles.active=" + System.getProperty("benchmark.profiles");
+        String cdsArchive = "-XX:SharedArchiveFile=" + System.getProperty("benchmark.cds-archive");
+
+        report("ddl-auto=update, no Flyway", List.of(),
+                List.of(baselineProfiles, "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"));
+        report("Flyway + ddl-auto=validate", List.of(), List.of(baselineProfiles));
+        report("faststart profile", List.of(), List.of(fastStartProfiles));
+        report("faststart profile + AOT + AppCDS",
+                List.of(cdsArchive, "-Dspring.aot.enabled=true"), List.of(fastStartProfiles));
+    }
+
+    private void report(String mode, List<String> jvmArgs, List<String> applicationArgs) throws Exception {
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            millis[i] = timeToFirstSuccessfulSearch(jvmArgs, applicationArgs);
+        }
+        Arrays.sort(millis);
+        System.out.printf("%-40s median %5d ms (runs: %s)%n", mode, millis[RUNS / 2], Arrays.toString(millis));
+    }
+
+    private long timeToFirstSuccessfulSearch(List<String> jvmArgs, List<String> applicationArgs) throws Exception {
+        int port = freePort();
+        File jar = new File(System.getProperty("benchmark.jar"));
+
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("benchmark.java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.getName());
+        command.add("--server.port=" + port);
+        command.add("--github.api.base-url=http://localhost:" + githubStub.getAddress().getPort());
+        command.addAll(applicationArgs);
+
+        HttpRequest search = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/github/search"))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"query\": \"startup\"}"))
+                .build();
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParentFile())
+                .redirectErrorStream(true)
+                .redirectOutput(new File(jar.getParentFile(), "startup-benchmark.log"))
+                .start();
+        try {
+            long deadline = startNanos + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    fail("Application exited with code " + process.exitValue() + ", see startup-benchmark.log");
+                }
+                try {
+                    if (client.send(search, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    }
+                } catch (IOException e) {
+                    // Server socket not open yet, or the request timed out
+                }
+                Thread.sleep(10);
+            }
+            return fail("No successful search within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}